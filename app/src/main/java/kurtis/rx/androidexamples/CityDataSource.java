@@ -0,0 +1,12 @@
+package kurtis.rx.androidexamples;
+
+/**
+ * Where {@link RestClient} gets the cities it searches through.
+ */
+public interface CityDataSource {
+
+    /**
+     * Called once per search, on the thread the search runs on.
+     */
+    String[] getCities();
+}
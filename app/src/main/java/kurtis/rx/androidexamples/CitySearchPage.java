@@ -0,0 +1,22 @@
+package kurtis.rx.androidexamples;
+
+import java.util.List;
+
+/**
+ * One page of the cities matching a search, along with where in the city list the next page
+ * starts.
+ */
+public class CitySearchPage {
+
+    public final String mSearchString;
+    public final List<String> mCities;
+    public final int mNextCityIndex;
+    public final boolean mHasMore;
+
+    public CitySearchPage(String searchString, List<String> cities, int nextCityIndex, boolean hasMore) {
+        mSearchString = searchString;
+        mCities = cities;
+        mNextCityIndex = nextCityIndex;
+        mHasMore = hasMore;
+    }
+}
@@ -52,6 +52,7 @@ public class Example1Activity extends AppCompatActivity {
         mColorListView.setLayoutManager(new LinearLayoutManager(this));
         mSimpleStringAdapter = new SimpleStringAdapter(this);
         mColorListView.setAdapter(mSimpleStringAdapter);
+        mColorListView.setRecycledViewPool(StringViewHolderPool.getInstance(this));
     }
 
     private static List<String> getColorList() {
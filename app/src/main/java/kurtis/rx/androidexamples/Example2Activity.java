@@ -84,5 +84,6 @@ public class Example2Activity extends AppCompatActivity {
         mTvShowListView.setLayoutManager(new LinearLayoutManager(this));
         mSimpleStringAdapter = new SimpleStringAdapter(this);
         mTvShowListView.setAdapter(mSimpleStringAdapter);
+        mTvShowListView.setRecycledViewPool(StringViewHolderPool.getInstance(this));
     }
 }
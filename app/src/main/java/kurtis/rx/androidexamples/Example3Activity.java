@@ -91,5 +91,6 @@ public class Example3Activity extends AppCompatActivity {
         mTvShowListView.setLayoutManager(new LinearLayoutManager(this));
         mSimpleStringAdapter = new SimpleStringAdapter(this);
         mTvShowListView.setAdapter(mSimpleStringAdapter);
+        mTvShowListView.setRecycledViewPool(StringViewHolderPool.getInstance(this));
     }
 }
@@ -6,13 +6,15 @@ import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 import android.text.Editable;
 import android.text.TextWatcher;
+import android.util.Log;
 import android.view.View;
 import android.widget.EditText;
 import android.widget.TextView;
 
-import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
+import rx.Observable;
 import rx.Observer;
 import rx.Subscription;
 import rx.android.schedulers.AndroidSchedulers;
@@ -22,19 +24,25 @@ import rx.subjects.PublishSubject;
 
 public class Example6Activity extends AppCompatActivity {
 
+    private static final String TAG = "Example6Activity";
+
     private RestClient mRestClient;
     private EditText mSearchInput;
     private TextView mNoResultsIndicator;
     private RecyclerView mSearchResults;
     private SimpleStringAdapter mSearchResultsAdapter;
+    private int mSearchResultsPageSize;
 
     private PublishSubject<String> mSearchResultsSubject;
     private Subscription mTextWatchSubscription;
+    private Subscription mLoadMoreSubscription;
+    private CitySearchPage mLastPage;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         mRestClient = new RestClient(this);
+        mSearchResultsPageSize = getResources().getInteger(R.integer.search_results_page_size);
         configureLayout();
         createObservables();
         listenToSearchInput();
@@ -45,14 +53,49 @@ public class Example6Activity extends AppCompatActivity {
         mTextWatchSubscription = mSearchResultsSubject
                 .debounce(400, TimeUnit.MILLISECONDS)
                 .observeOn(Schedulers.io())
-                .map(new Func1<String, List<String>>() {
+                .map(new Func1<String, CitySearchPage>() {
                     @Override
-                    public List<String> call(String s) {
-                        return mRestClient.searchForCity(s);
+                    public CitySearchPage call(String s) {
+                        return mRestClient.searchForCity(s, 0, mSearchResultsPageSize);
                     }
                 })
                 .observeOn(AndroidSchedulers.mainThread())
-                .subscribe(new Observer<List<String>>() {
+                .subscribe(new Observer<CitySearchPage>() {
+                    @Override
+                    public void onCompleted() {
+
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+
+                    }
+
+                    @Override
+                    public void onNext(CitySearchPage page) {
+                        handleSearchResults(page);
+                    }
+                });
+    }
+
+    private void loadMoreSearchResults() {
+        if (mLoadMoreSubscription != null && !mLoadMoreSubscription.isUnsubscribed()) {
+            return;
+        }
+
+        final CitySearchPage lastPage = mLastPage;
+        mLoadMoreSubscription = Observable.fromCallable(new Callable<CitySearchPage>() {
+            @Override
+            public CitySearchPage call() {
+                return mRestClient.searchForCity(
+                        lastPage.mSearchString,
+                        lastPage.mNextCityIndex,
+                        mSearchResultsPageSize);
+            }
+        })
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(new Observer<CitySearchPage>() {
                     @Override
                     public void onCompleted() {
 
@@ -64,17 +107,25 @@ public class Example6Activity extends AppCompatActivity {
                     }
 
                     @Override
-                    public void onNext(List<String> cities) {
-                        handleSearchResults(cities);
+                    public void onNext(CitySearchPage page) {
+                        mLastPage = page;
+                        mSearchResultsAdapter.addStrings(page.mCities);
+                        mSearchResultsAdapter.setHasMore(page.mHasMore);
                     }
                 });
     }
 
-    private void handleSearchResults(List<String> cities) {
-        if (cities.isEmpty()) {
+    private void handleSearchResults(CitySearchPage page) {
+        // A new search makes any page still loading for the old one useless.
+        if (mLoadMoreSubscription != null && !mLoadMoreSubscription.isUnsubscribed()) {
+            mLoadMoreSubscription.unsubscribe();
+        }
+        mLastPage = page;
+
+        if (page.mCities.isEmpty()) {
             showNoSearchResults();
         } else {
-            showSearchResults(cities);
+            showSearchResults(page);
         }
     }
 
@@ -83,10 +134,17 @@ public class Example6Activity extends AppCompatActivity {
         mSearchResults.setVisibility(View.GONE);
     }
 
-    private void showSearchResults(List<String> cities) {
+    private void showSearchResults(CitySearchPage page) {
         mNoResultsIndicator.setVisibility(View.GONE);
         mSearchResults.setVisibility(View.VISIBLE);
-        mSearchResultsAdapter.setStrings(cities);
+        // The page is never touched again, so let the adapter have it instead of copying.
+        // Later pages get added to the end of it.
+        mSearchResultsAdapter.takeStrings(page.mCities);
+        mSearchResultsAdapter.setHasMore(page.mHasMore);
+        if (page.mHasMore) {
+            Log.i(TAG, "More than " + mSearchResultsPageSize + " results for \""
+                    + page.mSearchString + "\", showing the first page");
+        }
     }
 
     private void listenToSearchInput() {
@@ -115,7 +173,14 @@ public class Example6Activity extends AppCompatActivity {
         mSearchResults = (RecyclerView) findViewById(R.id.search_results);
         mSearchResults.setLayoutManager(new LinearLayoutManager(this));
         mSearchResultsAdapter = new SimpleStringAdapter(this);
+        mSearchResultsAdapter.setOnLoadMoreListener(new SimpleStringAdapter.OnLoadMoreListener() {
+            @Override
+            public void onLoadMore() {
+                loadMoreSearchResults();
+            }
+        });
         mSearchResults.setAdapter(mSearchResultsAdapter);
+        mSearchResults.setRecycledViewPool(StringViewHolderPool.getInstance(this));
     }
 
     @Override
@@ -124,5 +189,8 @@ public class Example6Activity extends AppCompatActivity {
         if (mTextWatchSubscription != null && !mTextWatchSubscription.isUnsubscribed()) {
             mTextWatchSubscription.unsubscribe();
         }
+        if (mLoadMoreSubscription != null && !mLoadMoreSubscription.isUnsubscribed()) {
+            mLoadMoreSubscription.unsubscribe();
+        }
     }
 }
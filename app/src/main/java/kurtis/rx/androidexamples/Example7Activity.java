@@ -0,0 +1,101 @@
+package kurtis.rx.androidexamples;
+
+import android.os.Bundle;
+import android.support.v7.app.AppCompatActivity;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.widget.ProgressBar;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Observer;
+import rx.Subscription;
+import rx.android.schedulers.AndroidSchedulers;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+public class Example7Activity extends AppCompatActivity {
+
+    private static final int MAX_SHOWS_PER_FRAME = 16;
+
+    private Subscription mTvShowSubscription;
+    private RecyclerView mTvShowListView;
+    private ProgressBar mProgressBar;
+    private SimpleStringAdapter mSimpleStringAdapter;
+    private RestClient mRestClient;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        mRestClient = new RestClient(this);
+        configureLayout();
+        createObservable();
+    }
+
+    private void createObservable() {
+        Observable<String> tvShowObservable = Observable.from(mRestClient.streamFavoriteTvShows());
+
+        mTvShowSubscription = tvShowObservable
+                .subscribeOn(Schedulers.io())
+                // Hand the shows over at most once per frame, in batches of at most
+                // MAX_SHOWS_PER_FRAME. A time based buffer requests everything from upstream, so
+                // Observable.from's backpressure stops here and the stream runs at its own pace.
+                // The timer also emits an empty batch every frame, which gets filtered out below.
+                .buffer(16, TimeUnit.MILLISECONDS, MAX_SHOWS_PER_FRAME)
+                .filter(new Func1<List<String>, Boolean>() {
+                    @Override
+                    public Boolean call(List<String> tvShows) {
+                        return !tvShows.isEmpty();
+                    }
+                })
+                // The only backpressure left. It's unbounded, but the stream is slow enough that
+                // only a batch or two ever waits here for the main thread.
+                .onBackpressureBuffer()
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                        new Observer<List<String>>() {
+                            @Override
+                            public void onCompleted() {
+
+                            }
+
+                            @Override
+                            public void onError(Throwable e) {
+
+                            }
+
+                            @Override
+                            public void onNext(List<String> tvShows) {
+                                displayTvShows(tvShows);
+                            }
+                        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+
+        if (mTvShowSubscription != null && !mTvShowSubscription.isUnsubscribed()) {
+            mTvShowSubscription.unsubscribe();
+        }
+    }
+
+    private void displayTvShows(List<String> tvShows) {
+        mSimpleStringAdapter.addStrings(tvShows);
+        mProgressBar.setVisibility(View.GONE);
+        mTvShowListView.setVisibility(View.VISIBLE);
+    }
+
+    private void configureLayout() {
+        setContentView(R.layout.activity_example_2);
+        mProgressBar = (ProgressBar) findViewById(R.id.loader);
+        mTvShowListView = (RecyclerView) findViewById(R.id.tv_show_list);
+        mTvShowListView.setLayoutManager(new LinearLayoutManager(this));
+        mSimpleStringAdapter = new SimpleStringAdapter(this);
+        mTvShowListView.setAdapter(mSimpleStringAdapter);
+        mTvShowListView.setRecycledViewPool(StringViewHolderPool.getInstance(this));
+    }
+}
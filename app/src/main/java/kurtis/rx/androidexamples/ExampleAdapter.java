@@ -15,32 +15,41 @@ import java.util.List;
  */
 public class ExampleAdapter extends RecyclerView.Adapter<ExampleAdapter.ViewHolder> {
 
-    private Context mContext;
-    private List<ExampleActivityAndName> mExamples;
+    private final Context mContext;
+    private final LayoutInflater mInflater;
+    private final List<ExampleActivityAndName> mExamples;
 
     public ExampleAdapter(Context context, List<ExampleActivityAndName> examples) {
         mContext = context;
+        mInflater = LayoutInflater.from(context);
         mExamples = examples;
     }
 
     @Override
     public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
-        View v = LayoutInflater
-                .from(mContext)
-                .inflate(R.layout.example_list_item, parent, false);
-        return new ViewHolder(v);
-    }
+        StartupTrace.beginPhase(StartupTrace.Phase.INFLATION);
+        View v = mInflater.inflate(R.layout.example_list_item, parent, false);
+        StartupTrace.endPhase(StartupTrace.Phase.INFLATION);
 
-    @Override
-    public void onBindViewHolder(final ViewHolder holder, final int position) {
-        holder.mNameDisplay.setText(mExamples.get(position).mExampleName);
+        final ViewHolder holder = new ViewHolder(v);
         holder.itemView.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                Intent exampleIntent = new Intent(mContext, mExamples.get(position).mExampleActivityClass);
-                mContext.startActivity(exampleIntent);
+                int position = holder.getAdapterPosition();
+                if (position != RecyclerView.NO_POSITION) {
+                    Intent exampleIntent = new Intent(mContext, mExamples.get(position).mExampleActivityClass);
+                    mContext.startActivity(exampleIntent);
+                }
             }
         });
+        return holder;
+    }
+
+    @Override
+    public void onBindViewHolder(ViewHolder holder, int position) {
+        StartupTrace.beginPhase(StartupTrace.Phase.ADAPTER_BINDING);
+        holder.mNameDisplay.setText(mExamples.get(position).mExampleName);
+        StartupTrace.endPhase(StartupTrace.Phase.ADAPTER_BINDING);
     }
 
     @Override
@@ -5,6 +5,8 @@ import android.support.v7.app.AppCompatActivity;
 import android.os.Bundle;
 import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewTreeObserver;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,10 +15,42 @@ public class ExampleListActivity extends AppCompatActivity {
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        StartupTrace.markActivityCreated(savedInstanceState);
         super.onCreate(savedInstanceState);
+        StartupTrace.beginPhase(StartupTrace.Phase.INFLATION);
         setContentView(R.layout.activity_example_list);
         setupActionBar();
+        StartupTrace.endPhase(StartupTrace.Phase.INFLATION);
         setupExampleList();
+        StartupTrace.finishOnFirstFrame(this);
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        prefillStringRowsAfterNextFrame();
+    }
+
+    /**
+     * Gets rows ready for whichever string list example is opened next, without getting in the
+     * way of drawing this screen.
+     */
+    private void prefillStringRowsAfterNextFrame() {
+        final View decorView = getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                decorView.getViewTreeObserver().removeOnPreDrawListener(this);
+                // Posting from here runs once the frame that's about to be drawn is done.
+                decorView.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        StringViewHolderPool.prefillWhenIdle(ExampleListActivity.this);
+                    }
+                });
+                return true;
+            }
+        });
     }
 
     private void setupActionBar() {
@@ -53,6 +87,9 @@ public class ExampleListActivity extends AppCompatActivity {
         exampleActivityAndNames.add(new ExampleActivityAndName(
                 Example6Activity.class,
                 "Example 6: City Search"));
+        exampleActivityAndNames.add(new ExampleActivityAndName(
+                Example7Activity.class,
+                "Example 7: Streaming Favorite Tv Shows"));
         return exampleActivityAndNames;
     }
 }
@@ -0,0 +1,27 @@
+package kurtis.rx.androidexamples;
+
+import android.app.Activity;
+import android.app.Application;
+
+/**
+ * Application for the examples. It traces the cold start from the earliest point the app controls
+ * and keeps the shared row pool from holding on to destroyed screens.
+ */
+public class ExamplesApplication extends Application {
+
+    public ExamplesApplication() {
+        StartupTrace.markProcessStart();
+    }
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        StartupTrace.watchFirstActivity(this);
+        registerActivityLifecycleCallbacks(new ActivityLifecycleCallbacksAdapter() {
+            @Override
+            public void onActivityDestroyed(Activity activity) {
+                StringViewHolderPool.onActivityDestroyed();
+            }
+        });
+    }
+}
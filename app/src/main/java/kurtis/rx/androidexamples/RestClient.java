@@ -3,16 +3,25 @@ package kurtis.rx.androidexamples;
 import android.content.Context;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * This is a mock REST Client. It simulates making blocking calls to an REST endpoint.
  */
 public class RestClient {
-    private Context mContext;
+    private final CityDataSource mCityDataSource;
 
     public RestClient(Context context) {
-        mContext = context;
+        this(new ResourceCityDataSource(context));
+    }
+
+    /**
+     * Creates a client that searches the cities from the given source instead of the ones in the
+     * app's resources.
+     */
+    public RestClient(CityDataSource cityDataSource) {
+        mCityDataSource = cityDataSource;
     }
 
     public List<String> getFavoriteTvShows() {
@@ -35,6 +44,20 @@ public class RestClient {
         throw new RuntimeException("Failed to load");
     }
 
+    /**
+     * Returns the same shows as {@link #getFavoriteTvShows()}, but they "arrive" one at a time.
+     * Nothing is loaded until the Iterable is iterated, and each call to next() blocks until the
+     * next show has arrived.
+     */
+    public Iterable<String> streamFavoriteTvShows() {
+        return new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new TvShowStream(createTvShowList().iterator());
+            }
+        };
+    }
+
     private List<String> createTvShowList() {
         List<String> tvShows = new ArrayList<>();
         tvShows.add("The Joy of Painting");
@@ -64,18 +87,102 @@ public class RestClient {
         return getMatchingCities(searchString);
     }
 
+    /**
+     * Searches like {@link #searchForCity(String)}, but returns at most pageSize matches. The
+     * search starts at cityIndex, which is 0 for the first page and
+     * {@link CitySearchPage#mNextCityIndex} for the ones after it, so loading the next page
+     * carries on where the last one stopped instead of searching again from the start.
+     */
+    public CitySearchPage searchForCity(String searchString, int cityIndex, int pageSize) {
+        try {
+            // "Simulate" the delay of network.
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+        return getMatchingCities(searchString, cityIndex, pageSize);
+    }
+
+    private CitySearchPage getMatchingCities(String searchString, int cityIndex, int pageSize) {
+        List<String> page = new ArrayList<>();
+        if (searchString.isEmpty()) {
+            return new CitySearchPage(searchString, page, cityIndex, false);
+        }
+
+        String[] cities = mCityDataSource.getCities();
+        for (int i = cityIndex; i < cities.length; i++) {
+            if (cities[i].toLowerCase().startsWith(searchString.toLowerCase())) {
+                if (page.size() == pageSize) {
+                    // There is at least one more match, and the next page starts with it.
+                    return new CitySearchPage(searchString, page, i, true);
+                }
+                page.add(cities[i]);
+            }
+        }
+        return new CitySearchPage(searchString, page, cities.length, false);
+    }
+
     private List<String> getMatchingCities(String searchString) {
         if (searchString.isEmpty()) {
             return new ArrayList<>();
         }
 
-        String[] cities = mContext.getResources().getStringArray(R.array.city_list);
         List<String> toReturn = new ArrayList<>();
-        for (String city : cities) {
+        for (String city : mCityDataSource.getCities()) {
             if (city.toLowerCase().startsWith(searchString.toLowerCase())) {
                 toReturn.add(city);
             }
         }
         return toReturn;
     }
+
+    /**
+     * Reads the cities from the app's resources on every search, so nothing holds on to them in
+     * between.
+     */
+    private static class ResourceCityDataSource implements CityDataSource {
+
+        private final Context mContext;
+
+        ResourceCityDataSource(Context context) {
+            mContext = context;
+        }
+
+        @Override
+        public String[] getCities() {
+            return mContext.getResources().getStringArray(R.array.city_list);
+        }
+    }
+
+    private static class TvShowStream implements Iterator<String> {
+
+        private final Iterator<String> mTvShows;
+        private boolean mStarted = false;
+
+        TvShowStream(Iterator<String> tvShows) {
+            mTvShows = tvShows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mTvShows.hasNext();
+        }
+
+        @Override
+        public String next() {
+            try {
+                // "Simulate" the network. The first show takes a while, the rest trickle in.
+                Thread.sleep(mStarted ? 300 : 500);
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+            mStarted = true;
+            return mTvShows.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package kurtis.rx.androidexamples;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.support.v7.widget.RecyclerView;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -10,25 +11,80 @@ import android.widget.Toast;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Adapter used to map a String to a text view.
+ *
+ * When there are more strings than have been loaded so far, the adapter can show a "load more"
+ * row at the end which asks its {@link OnLoadMoreListener} for the next page.
  */
 public class SimpleStringAdapter extends RecyclerView.Adapter<SimpleStringAdapter.ViewHolder> {
 
+    static final int VIEW_TYPE_STRING = 0;
+    static final int VIEW_TYPE_LOAD_MORE = 1;
+
+    public interface OnLoadMoreListener {
+        void onLoadMore();
+    }
+
     private final Context mContext;
-    private final List<String> mStrings = new ArrayList<>();
+    private List<String> mStrings = new ArrayList<>();
+    private boolean mHasMore = false;
+    private OnLoadMoreListener mOnLoadMoreListener;
 
     public SimpleStringAdapter(Context context) {
         mContext = context;
     }
 
+    public void setOnLoadMoreListener(OnLoadMoreListener onLoadMoreListener) {
+        mOnLoadMoreListener = onLoadMoreListener;
+    }
+
     public void setStrings(List<String> newStrings) {
         mStrings.clear();
         mStrings.addAll(newStrings);
+        mHasMore = false;
         notifyDataSetChanged();
     }
 
+    /**
+     * Like {@link #setStrings(List)}, but without copying. The adapter takes ownership of the
+     * given list and adds to it from then on, so it must be mutable and mustn't be used by anyone
+     * else afterwards.
+     */
+    public void takeStrings(List<String> strings) {
+        mStrings = strings;
+        mHasMore = false;
+        notifyDataSetChanged();
+    }
+
+    public void addStrings(List<String> newStrings) {
+        int start = mStrings.size();
+        mStrings.addAll(newStrings);
+        notifyItemRangeInserted(start, newStrings.size());
+    }
+
+    /**
+     * Shows or hides the "load more" row after the strings.
+     */
+    public void setHasMore(boolean hasMore) {
+        if (mHasMore == hasMore) {
+            return;
+        }
+        mHasMore = hasMore;
+        if (hasMore) {
+            notifyItemInserted(mStrings.size());
+        } else {
+            notifyItemRemoved(mStrings.size());
+        }
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        return position == mStrings.size() ? VIEW_TYPE_LOAD_MORE : VIEW_TYPE_STRING;
+    }
+
     @Override
     public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.string_list_item, parent, false);
@@ -37,6 +93,19 @@ public class SimpleStringAdapter extends RecyclerView.Adapter<SimpleStringAdapte
 
     @Override
     public void onBindViewHolder(ViewHolder holder, final int position) {
+        if (getItemViewType(position) == VIEW_TYPE_LOAD_MORE) {
+            holder.mColorDisplay.setText(R.string.load_more);
+            holder.itemView.setOnClickListener(new View.OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    if (mOnLoadMoreListener != null) {
+                        mOnLoadMoreListener.onLoadMore();
+                    }
+                }
+            });
+            return;
+        }
+
         holder.mColorDisplay.setText(mStrings.get(position));
         holder.itemView.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -46,18 +115,49 @@ public class SimpleStringAdapter extends RecyclerView.Adapter<SimpleStringAdapte
         });
     }
 
+    @Override
+    public void onViewRecycled(ViewHolder holder) {
+        // Recycled rows end up in the shared pool, so don't let them hold on to this adapter.
+        holder.itemView.setOnClickListener(null);
+    }
+
     @Override
     public int getItemCount() {
-        return mStrings.size();
+        return mHasMore ? mStrings.size() + 1 : mStrings.size();
     }
 
     public static class ViewHolder extends RecyclerView.ViewHolder {
 
         public final TextView mColorDisplay;
 
+        // What the row was inflated for, so the shared pool can tell when it's out of date.
+        private final int mDensityDpi;
+        private final float mFontScale;
+        private final Locale mLocale;
+        private final int mUiMode;
+        private final int mLayoutDirection;
+
         public ViewHolder(View view) {
             super(view);
             mColorDisplay = (TextView) view.findViewById(R.id.color_display);
+            Configuration configuration = view.getResources().getConfiguration();
+            mDensityDpi = configuration.densityDpi;
+            mFontScale = configuration.fontScale;
+            mLocale = configuration.locale;
+            mUiMode = configuration.uiMode;
+            mLayoutDirection = configuration.getLayoutDirection();
+        }
+
+        /**
+         * Whether the row would inflate the same under the given configuration. Only the parts of
+         * the configuration that change how a row looks are compared.
+         */
+        boolean wasInflatedFor(Configuration configuration) {
+            return mDensityDpi == configuration.densityDpi
+                    && mFontScale == configuration.fontScale
+                    && mUiMode == configuration.uiMode
+                    && mLayoutDirection == configuration.getLayoutDirection()
+                    && (mLocale == null ? configuration.locale == null : mLocale.equals(configuration.locale));
         }
     }
 }
@@ -0,0 +1,154 @@
+package kurtis.rx.androidexamples;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+import android.os.Trace;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import java.util.Locale;
+
+/**
+ * Measures the cold start of the app, up to the first frame of the example list. The time to first
+ * frame is split into application to activity (from the Application being constructed to the
+ * example list's onCreate), layout inflation and adapter binding. The results are written to
+ * logcat and each phase also shows up as a section in systrace.
+ *
+ * The process start is approximate: it's taken when the Application is constructed, so the time
+ * spent forking the process and binding the application before that isn't included. Only a real
+ * cold start is traced: if the process comes back straight into another screen, or the example
+ * list is being restored from saved state, the trace is dropped.
+ *
+ * Tracing is only available in debug builds. Turn it on with
+ * "adb shell setprop log.tag.StartupTrace DEBUG" and restart the app.
+ *
+ * Only meant to be used from the main thread.
+ */
+public final class StartupTrace {
+
+    private static final String TAG = "StartupTrace";
+
+    private static final boolean ENABLED = BuildConfig.DEBUG && Log.isLoggable(TAG, Log.DEBUG);
+
+    public enum Phase {
+        APPLICATION_TO_ACTIVITY("application to activity"),
+        INFLATION("inflation"),
+        ADAPTER_BINDING("adapter binding");
+
+        private final String mLabel;
+
+        Phase(String label) {
+            mLabel = label;
+        }
+    }
+
+    private static final long[] sPhaseStartNanos = new long[Phase.values().length];
+    private static final long[] sPhaseTotalNanos = new long[Phase.values().length];
+    private static long sProcessStartNanos = -1;
+    private static boolean sFinished = false;
+
+    private StartupTrace() {
+    }
+
+    public static void markProcessStart() {
+        if (ENABLED && sProcessStartNanos < 0) {
+            sProcessStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Drops the trace unless the first activity of the process turns out to be a fresh example
+     * list.
+     */
+    public static void watchFirstActivity(final Application application) {
+        if (!ENABLED) {
+            return;
+        }
+        application.registerActivityLifecycleCallbacks(new ActivityLifecycleCallbacksAdapter() {
+            @Override
+            public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+                application.unregisterActivityLifecycleCallbacks(this);
+                if (!(activity instanceof ExampleListActivity) || savedInstanceState != null) {
+                    drop();
+                }
+            }
+        });
+    }
+
+    public static void markActivityCreated(Bundle savedInstanceState) {
+        if (savedInstanceState != null) {
+            drop();
+        }
+        if (isTracing()) {
+            sPhaseTotalNanos[Phase.APPLICATION_TO_ACTIVITY.ordinal()] = System.nanoTime() - sProcessStartNanos;
+        }
+    }
+
+    public static void beginPhase(Phase phase) {
+        if (isTracing()) {
+            Trace.beginSection(phase.mLabel);
+            sPhaseStartNanos[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public static void endPhase(Phase phase) {
+        if (isTracing()) {
+            sPhaseTotalNanos[phase.ordinal()] += System.nanoTime() - sPhaseStartNanos[phase.ordinal()];
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Reports the trace once the first frame of the given activity has been drawn.
+     */
+    public static void finishOnFirstFrame(Activity activity) {
+        if (!isTracing()) {
+            return;
+        }
+        final View decorView = activity.getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                decorView.getViewTreeObserver().removeOnPreDrawListener(this);
+                final long preDrawNanos = System.nanoTime();
+                // Posting from here runs once the frame that's about to be drawn is done.
+                decorView.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        finish(preDrawNanos, System.nanoTime());
+                    }
+                });
+                return true;
+            }
+        });
+    }
+
+    private static boolean isTracing() {
+        return ENABLED && sProcessStartNanos >= 0 && !sFinished;
+    }
+
+    private static void drop() {
+        if (isTracing()) {
+            Log.d(TAG, "Not a cold start of the example list, dropping the trace");
+        }
+        sFinished = true;
+    }
+
+    private static void finish(long preDrawNanos, long drawnNanos) {
+        if (!isTracing()) {
+            return;
+        }
+        sFinished = true;
+        Log.d(TAG, "Time to first frame: " + toMillis(drawnNanos - sProcessStartNanos));
+        Log.d(TAG, "    drawing: " + toMillis(drawnNanos - preDrawNanos));
+        for (Phase phase : Phase.values()) {
+            Log.d(TAG, "    " + phase.mLabel + ": " + toMillis(sPhaseTotalNanos[phase.ordinal()]));
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.US, "%.2f ms", nanos / 1000000.0);
+    }
+}
@@ -0,0 +1,196 @@
+package kurtis.rx.androidexamples;
+
+import android.app.Activity;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Configuration;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.v7.widget.RecyclerView;
+import android.view.ContextThemeWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * App wide pool of {@link SimpleStringAdapter.ViewHolder}s shared by every screen that shows a
+ * list of strings. While the main thread is idle the pool is filled with pre-inflated rows, so
+ * entering one of those screens doesn't have to inflate its rows first. The pool is capped and
+ * drops everything it holds when the system is low on memory.
+ *
+ * Pre-inflated rows use the application context with the application's theme. Rows recycled by a
+ * screen belong to that screen's activity, so when an activity is destroyed its rows are dropped
+ * from the pool right away (see {@link #onActivityDestroyed()}). Rows inflated for a different
+ * density, font scale, locale, UI mode or layout direction are dropped too. A RecyclerView must
+ * be given the pool after its adapter is set, otherwise setting the adapter clears the pool.
+ *
+ * Only meant to be used from the main thread.
+ */
+public class StringViewHolderPool extends RecyclerView.RecycledViewPool
+        implements MessageQueue.IdleHandler, ComponentCallbacks2 {
+
+    private static final int VIEW_TYPE = SimpleStringAdapter.VIEW_TYPE_STRING;
+    private static final int[] VIEW_TYPES = {
+            SimpleStringAdapter.VIEW_TYPE_STRING,
+            SimpleStringAdapter.VIEW_TYPE_LOAD_MORE
+    };
+    private static final int MAX_POOLED_ROWS = 24;
+    // Roughly one screen worth of rows.
+    private static final int PREFILLED_ROWS = 12;
+
+    private static StringViewHolderPool sInstance;
+
+    private final Context mAppContext;
+    private final RecyclerView mPrefillParent;
+    private final SimpleStringAdapter mPrefillAdapter;
+
+    private int mPooledRows = 0;
+    private boolean mPrefillScheduled = false;
+
+    public static StringViewHolderPool getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new StringViewHolderPool(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    /**
+     * Tops the pool up once the main thread goes idle. The pool itself isn't created until then,
+     * so calling this on the way to the first frame costs next to nothing.
+     */
+    public static void prefillWhenIdle(Context context) {
+        final Context appContext = context.getApplicationContext();
+        Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+            @Override
+            public boolean queueIdle() {
+                getInstance(appContext).prefill();
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Drops the rows of any destroyed activity so the pool doesn't keep it alive. Meant to be
+     * called from {@link android.app.Application.ActivityLifecycleCallbacks#onActivityDestroyed}.
+     */
+    public static void onActivityDestroyed() {
+        if (sInstance != null) {
+            sInstance.dropStaleRows();
+        }
+    }
+
+    private StringViewHolderPool(Context appContext) {
+        mAppContext = appContext;
+        Context themedContext = new ContextThemeWrapper(appContext, appContext.getApplicationInfo().theme);
+        mPrefillParent = new RecyclerView(themedContext);
+        mPrefillAdapter = new SimpleStringAdapter(appContext);
+        setMaxRecycledViews(VIEW_TYPE, MAX_POOLED_ROWS);
+        appContext.registerComponentCallbacks(this);
+    }
+
+    /**
+     * Tops the pool up to a screen worth of rows, one row each time the main thread goes idle.
+     */
+    public void prefill() {
+        if (!mPrefillScheduled && mPooledRows < PREFILLED_ROWS) {
+            mPrefillScheduled = true;
+            Looper.myQueue().addIdleHandler(this);
+        }
+    }
+
+    @Override
+    public boolean queueIdle() {
+        if (mPooledRows < PREFILLED_ROWS) {
+            // Go through the adapter so the holder gets tagged with its view type.
+            putRecycledView(mPrefillAdapter.createViewHolder(mPrefillParent, VIEW_TYPE));
+        }
+        mPrefillScheduled = mPooledRows < PREFILLED_ROWS;
+        return mPrefillScheduled;
+    }
+
+    @Override
+    public RecyclerView.ViewHolder getRecycledView(int viewType) {
+        RecyclerView.ViewHolder holder = super.getRecycledView(viewType);
+        while (holder != null) {
+            if (viewType == VIEW_TYPE) {
+                mPooledRows--;
+            }
+            if (!isStale(holder)) {
+                return holder;
+            }
+            holder = super.getRecycledView(viewType);
+        }
+        return null;
+    }
+
+    @Override
+    public void putRecycledView(RecyclerView.ViewHolder holder) {
+        if (isStale(holder)) {
+            return;
+        }
+        if (holder.getItemViewType() != VIEW_TYPE) {
+            super.putRecycledView(holder);
+        } else if (mPooledRows < MAX_POOLED_ROWS) {
+            super.putRecycledView(holder);
+            mPooledRows++;
+        }
+    }
+
+    private void dropStaleRows() {
+        List<RecyclerView.ViewHolder> holders = new ArrayList<>();
+        for (int viewType : VIEW_TYPES) {
+            RecyclerView.ViewHolder holder;
+            while ((holder = super.getRecycledView(viewType)) != null) {
+                holders.add(holder);
+            }
+        }
+        mPooledRows = 0;
+        for (RecyclerView.ViewHolder holder : holders) {
+            putRecycledView(holder);
+        }
+    }
+
+    private boolean isStale(RecyclerView.ViewHolder holder) {
+        SimpleStringAdapter.ViewHolder stringHolder = (SimpleStringAdapter.ViewHolder) holder;
+        if (!stringHolder.wasInflatedFor(mAppContext.getResources().getConfiguration())) {
+            return true;
+        }
+
+        Context context = holder.itemView.getContext();
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                return ((Activity) context).isDestroyed();
+            }
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        mPooledRows = 0;
+        if (mPrefillScheduled) {
+            mPrefillScheduled = false;
+            Looper.myQueue().removeIdleHandler(this);
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            clear();
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        dropStaleRows();
+    }
+}
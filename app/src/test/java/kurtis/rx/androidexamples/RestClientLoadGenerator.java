@@ -0,0 +1,266 @@
+package kurtis.rx.androidexamples;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import rx.Observable;
+import rx.Observer;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.schedulers.Schedulers;
+
+/**
+ * Soak test for {@link RestClient} and the fromCallable/subscribeOn(Schedulers.io()) pattern the
+ * examples wrap it in. Many simulated clients call search and the Tv show endpoint over and over
+ * for a long time, against a fake list of cities. Some clients give up on a call half way through
+ * and unsubscribe, just like an activity being destroyed does in onDestroy.
+ *
+ * Every report interval it prints throughput, latency percentiles, how many subscriptions have
+ * not been released yet, how many callables are still running, the thread count and the heap used
+ * after a GC. A subscription counts as released once the chain sees it unsubscribed, and a
+ * callable counts as running until it has actually returned, so work that keeps going after a
+ * client gave up shows up here. Any of these that keeps growing points to a leak.
+ *
+ * This is a standalone tool, not a unit test. Run it with
+ * <pre>./gradlew :app:soakRestClient -PsoakArgs="clients durationSeconds reportIntervalSeconds"</pre>
+ * where every argument is optional. Abandoned calls interrupt RestClient's sleep, which prints a
+ * stack trace, so the task sends stderr to app/build/soak-stderr.txt and only the reports end up
+ * on the console.
+ */
+public class RestClientLoadGenerator {
+
+    private static final int DEFAULT_CLIENTS = 64;
+    private static final int DEFAULT_DURATION_SECONDS = 30 * 60;
+    private static final int DEFAULT_REPORT_INTERVAL_SECONDS = 10;
+
+    private static final int FAKE_CITY_COUNT = 5000;
+    // Share of calls a client gives up on, as if the user left the screen.
+    private static final double ABANDON_RATE = 0.1;
+    private static final long MAX_RECORDED_LATENCY_MILLIS = 60 * 1000;
+
+    private final RestClient mRestClient = new RestClient(new FakeCityDataSource());
+    private final LatencyRecorder mSearchLatencies = new LatencyRecorder();
+    private final LatencyRecorder mTvShowLatencies = new LatencyRecorder();
+    private final AtomicLong mLiveSubscriptions = new AtomicLong();
+    private final AtomicLong mRunningCallables = new AtomicLong();
+    private final AtomicLong mAbandoned = new AtomicLong();
+    private long mLastReportNanos;
+
+    public static void main(String[] args) throws InterruptedException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int durationSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DURATION_SECONDS;
+        int reportIntervalSeconds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REPORT_INTERVAL_SECONDS;
+        new RestClientLoadGenerator().run(clients, durationSeconds, reportIntervalSeconds);
+    }
+
+    private void run(int clients, int durationSeconds, int reportIntervalSeconds) throws InterruptedException {
+        System.out.println(String.format(Locale.US,
+                "Running %d clients for %d s, reporting every %d s", clients, durationSeconds, reportIntervalSeconds));
+
+        final long startNanos = System.nanoTime();
+        mLastReportNanos = startNanos;
+        final long deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService clientThreads = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            final Random random = new Random(i);
+            clientThreads.execute(new Runnable() {
+                @Override
+                public void run() {
+                    while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+                        makeCall(random);
+                    }
+                }
+            });
+        }
+        clientThreads.shutdown();
+
+        while (!clientThreads.awaitTermination(reportIntervalSeconds, TimeUnit.SECONDS)) {
+            report(startNanos);
+        }
+        report(startNanos);
+    }
+
+    private void makeCall(Random random) {
+        if (random.nextBoolean()) {
+            final String searchString = String.valueOf((char) ('a' + random.nextInt(26)));
+            makeCall(random, mSearchLatencies, new Callable<List<String>>() {
+                @Override
+                public List<String> call() {
+                    return mRestClient.searchForCity(searchString);
+                }
+            });
+        } else {
+            makeCall(random, mTvShowLatencies, new Callable<List<String>>() {
+                @Override
+                public List<String> call() {
+                    return mRestClient.getFavoriteTvShows();
+                }
+            });
+        }
+    }
+
+    private void makeCall(Random random, LatencyRecorder latencies, final Callable<List<String>> call) {
+        final CountDownLatch done = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+
+        Subscription subscription = Observable.fromCallable(new Callable<List<String>>() {
+            @Override
+            public List<String> call() throws Exception {
+                mRunningCallables.incrementAndGet();
+                try {
+                    return call.call();
+                } finally {
+                    mRunningCallables.decrementAndGet();
+                }
+            }
+        })
+                .subscribeOn(Schedulers.io())
+                .doOnSubscribe(new Action0() {
+                    @Override
+                    public void call() {
+                        mLiveSubscriptions.incrementAndGet();
+                    }
+                })
+                .doOnUnsubscribe(new Action0() {
+                    @Override
+                    public void call() {
+                        mLiveSubscriptions.decrementAndGet();
+                    }
+                })
+                .subscribe(new Observer<List<String>>() {
+                    @Override
+                    public void onCompleted() {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onNext(List<String> strings) {
+
+                    }
+                });
+
+        try {
+            if (random.nextDouble() < ABANDON_RATE) {
+                Thread.sleep(random.nextInt(500));
+                if (done.getCount() > 0) {
+                    mAbandoned.incrementAndGet();
+                }
+                subscription.unsubscribe();
+            } else {
+                done.await();
+                latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        } catch (InterruptedException e) {
+            subscription.unsubscribe();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(long startNanos) {
+        long nowNanos = System.nanoTime();
+        double intervalSeconds = (nowNanos - mLastReportNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        mLastReportNanos = nowNanos;
+        long[] search = mSearchLatencies.drain();
+        long[] tvShows = mTvShowLatencies.drain();
+        long calls = count(search) + count(tvShows);
+
+        System.gc();
+        long heapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        System.out.println(String.format(Locale.US,
+                "[%5d s] %6.1f calls/s | search %s | tv shows %s | live subscriptions %d | running callables %d | abandoned %d | threads %d | heap %.1f MB",
+                TimeUnit.NANOSECONDS.toSeconds(nowNanos - startNanos),
+                calls / intervalSeconds,
+                formatPercentiles(search),
+                formatPercentiles(tvShows),
+                mLiveSubscriptions.get(),
+                mRunningCallables.get(),
+                mAbandoned.get(),
+                threads,
+                heapBytes / (1024.0 * 1024.0)));
+    }
+
+    private static String formatPercentiles(long[] histogram) {
+        return String.format(Locale.US, "p50 %d p90 %d p99 %d max %d ms",
+                percentile(histogram, 0.5),
+                percentile(histogram, 0.9),
+                percentile(histogram, 0.99),
+                percentile(histogram, 1.0));
+    }
+
+    private static long percentile(long[] histogram, double fraction) {
+        long count = count(histogram);
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * fraction));
+        long seen = 0;
+        for (int millis = 0; millis < histogram.length; millis++) {
+            seen += histogram[millis];
+            if (seen >= rank) {
+                return millis;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    private static long count(long[] histogram) {
+        long count = 0;
+        for (long bucket : histogram) {
+            count += bucket;
+        }
+        return count;
+    }
+
+    private static class FakeCityDataSource implements CityDataSource {
+
+        private final String[] mCities = new String[FAKE_CITY_COUNT];
+
+        FakeCityDataSource() {
+            Random random = new Random(0);
+            for (int i = 0; i < mCities.length; i++) {
+                mCities[i] = (char) ('A' + random.nextInt(26)) + "ville " + i;
+            }
+        }
+
+        @Override
+        public String[] getCities() {
+            return mCities;
+        }
+    }
+
+    /**
+     * Histogram of latencies with one bucket per millisecond, so recording never allocates.
+     */
+    private static class LatencyRecorder {
+
+        private final AtomicLongArray mBuckets = new AtomicLongArray((int) MAX_RECORDED_LATENCY_MILLIS + 1);
+
+        void record(long millis) {
+            mBuckets.incrementAndGet((int) Math.min(millis, MAX_RECORDED_LATENCY_MILLIS));
+        }
+
+        long[] drain() {
+            long[] histogram = new long[mBuckets.length()];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = mBuckets.getAndSet(i, 0);
+            }
+            return histogram;
+        }
+    }
+}